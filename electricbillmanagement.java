@@ -1,4 +1,5 @@
 import java.io.*;
+import java.nio.file.*;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -11,11 +12,20 @@ public class electricbillmanagement {
     private static final String CONSUMERS_FILE = "consumers.dat";
     private static final String READINGS_FILE  = "readings.dat";
     private static final String BILLS_FILE     = "bills.dat";
+    private static final String META_FILE      = "store.meta";
+    private static final String BILL_RUN_FILE  = "billrun.ckpt";
+    private static final String BILL_RUN_JOURNAL = "billrun.journal";
+    private static final int BILL_RUN_CHECKPOINT_EVERY = 200; // consumers between durable checkpoints
+    private static final int STORE_FORMAT = 1;
 
-    // In-memory stores
-    private Map<Integer, Consumer> consumers = new TreeMap<>();
-    private Map<Integer, List<MeterReading>> readings = new TreeMap<>(); // consumerId -> readings list (sorted)
-    private Map<Integer, Bill> bills = new TreeMap<>(); // billId -> bill
+    // In-memory stores, read from disk on first use (see consumers() / readings() / bills())
+    private Map<Integer, Consumer> consumers;
+    private Map<Integer, List<MeterReading>> readings; // consumerId -> readings list (sorted)
+    private Map<Integer, Bill> bills; // billId -> bill
+    private Map<Integer, Map<YearMonth, Integer>> billIndex; // consumerId -> (month -> billId), built with bills
+    private AgingEngine aging; // unpaid-bill aging, built with bills
+    private final Object billsLock = new Object();
+    private StoreHeader header; // null when store.meta is missing (fresh or pre-header data)
 
     private int consumerCounter = 1;
     private int billCounter = 1;
@@ -23,13 +33,20 @@ public class electricbillmanagement {
     // Default tariff config (can be changed via menu)
     private Tariff tariff = Tariff.defaultTariff();
 
+    // Startup only reads store.meta; the .dat files are loaded when first touched and bills.dat
+    // (plus its consumer/month index) is warmed on a background thread.
+    // For an AppCDS archive, do a training run once and reuse the archive afterwards:
+    //   java -XX:ArchiveClassesAtExit=ebm.jsa electricbillmanagement --cds-train
+    //   java -XX:SharedArchiveFile=ebm.jsa electricbillmanagement
     public static void main(String[] args) {
         electricbillmanagement app = new electricbillmanagement();
-        app.loadData();
+        app.loadHeader();
+        if (args.length > 0 && args[0].equals("--cds-train")) { app.cdsTrainingRun(); return; }
+        app.startBillIndexLoader();
         app.bootstrapSampleIfEmpty();
+        if (billRunPending()) System.out.println("An unfinished bill run was found. Consumers, readings and bills are locked until it is resumed or discarded via 'Generate Bills'.");
         app.run();
-        app.saveData();
-        System.out.println("Exiting. Data saved.");
+        System.out.println(app.saveData() ? "Exiting. Data saved." : "Exiting. Some data could not be saved (see above).");
     }
 
     // ---------- MAIN MENU ----------
@@ -48,13 +65,13 @@ public class electricbillmanagement {
             System.out.print("Choose: ");
             String c = scanner.nextLine().trim();
             switch (c) {
-                case "1": consumersMenu(); break;
-                case "2": readingsMenu(); break;
+                case "1": if (!lockedByBillRun()) consumersMenu(); break;
+                case "2": if (!lockedByBillRun()) readingsMenu(); break;
                 case "3": generateBillsMenu(); break;
-                case "4": billsMenu(); break;
+                case "4": if (!lockedByBillRun()) billsMenu(); break;
                 case "5": reportsMenu(); break;
                 case "6": tariffMenu(); break;
-                case "7": saveData(); System.out.println("Data saved."); break;
+                case "7": System.out.println(saveData() ? "Data saved." : "Save incomplete (see above)."); break;
                 case "0": return;
                 default: System.out.println("Invalid choice."); break;
             }
@@ -89,22 +106,23 @@ public class electricbillmanagement {
         System.out.print("Address: "); String address = scanner.nextLine().trim();
         System.out.print("Phone: "); String phone = scanner.nextLine().trim();
         System.out.print("Meter Number: "); String meter = scanner.nextLine().trim();
+        Map<Integer, Consumer> store = consumers(); // load first so consumerCounter is reconciled
         Consumer c = new Consumer(consumerCounter++, name, address, phone, meter, LocalDate.now());
-        consumers.put(c.getId(), c);
+        store.put(c.getId(), c);
         System.out.println("Consumer added with ID: " + c.getId());
     }
 
     private void listConsumers() {
-        if (consumers.isEmpty()) { System.out.println("No consumers."); return; }
+        if (consumers().isEmpty()) { System.out.println("No consumers."); return; }
         System.out.printf("\n%-4s %-25s %-15s %-12s %-10s%n", "ID", "Name", "Phone", "Meter#", "Joined");
-        for (Consumer c : consumers.values()) {
+        for (Consumer c : consumers().values()) {
             System.out.printf("%-4d %-25s %-15s %-12s %-10s%n", c.getId(), c.getName(), optional(c.getPhone()), optional(c.getMeterNumber()), c.getCreatedAt().toString());
         }
     }
 
     private void updateConsumer() {
         int id = promptInt("Consumer ID: ");
-        Consumer c = consumers.get(id);
+        Consumer c = consumers().get(id);
         if (c == null) { System.out.println("Not found."); return; }
         System.out.println("Leave blank to keep value.");
         System.out.print("Name ("+c.getName()+"): "); String name = scanner.nextLine().trim();
@@ -120,11 +138,11 @@ public class electricbillmanagement {
 
     private void deleteConsumer() {
         int id = promptInt("Consumer ID to delete: ");
-        if (!consumers.containsKey(id)) { System.out.println("Not found."); return; }
-        boolean hasBills = bills.values().stream().anyMatch(b -> b.getConsumerId() == id);
+        if (!consumers().containsKey(id)) { System.out.println("Not found."); return; }
+        boolean hasBills = billIndex().containsKey(id);
         if (hasBills) { System.out.println("Cannot delete consumer with bills. Remove bills first."); return; }
-        consumers.remove(id);
-        readings.remove(id);
+        consumers().remove(id);
+        readings().remove(id);
         System.out.println("Deleted.");
     }
 
@@ -150,7 +168,7 @@ public class electricbillmanagement {
 
     private void addReading() {
         int cid = promptInt("Consumer ID: ");
-        if (!consumers.containsKey(cid)) { System.out.println("Consumer not found."); return; }
+        if (!consumers().containsKey(cid)) { System.out.println("Consumer not found."); return; }
         System.out.print("Reading date-time (yyyy-MM-dd HH:mm) or blank = now: ");
         String dt = scanner.nextLine().trim();
         LocalDateTime when;
@@ -160,16 +178,16 @@ public class electricbillmanagement {
         }
         int units = promptInt("Meter reading (cumulative units): ");
         MeterReading r = new MeterReading(cid, when, units);
-        readings.computeIfAbsent(cid, k -> new ArrayList<>()).add(r);
+        readings().computeIfAbsent(cid, k -> new ArrayList<>()).add(r);
         // sort by date
-        readings.get(cid).sort(Comparator.comparing(MeterReading::getWhen));
+        readings().get(cid).sort(Comparator.comparing(MeterReading::getWhen));
         System.out.println("Reading saved.");
     }
 
     private void listReadingsForConsumer() {
         int cid = promptInt("Consumer ID: ");
-        if (!consumers.containsKey(cid)) { System.out.println("Not found."); return; }
-        List<MeterReading> list = readings.getOrDefault(cid, Collections.emptyList());
+        if (!consumers().containsKey(cid)) { System.out.println("Not found."); return; }
+        List<MeterReading> list = readings().getOrDefault(cid, Collections.emptyList());
         if (list.isEmpty()) { System.out.println("No readings."); return; }
         System.out.printf("\n%-20s %-10s%n", "When", "Units");
         for (MeterReading r : list) System.out.printf("%-20s %-10d%n", r.getWhen().format(DT), r.getUnits());
@@ -177,8 +195,8 @@ public class electricbillmanagement {
 
     private void importSampleReadings() {
         // small helper to create a few readings per consumer (for demo)
-        for (Integer cid : consumers.keySet()) {
-            List<MeterReading> list = readings.computeIfAbsent(cid, k -> new ArrayList<>());
+        for (Integer cid : consumers().keySet()) {
+            List<MeterReading> list = readings().computeIfAbsent(cid, k -> new ArrayList<>());
             LocalDateTime base = LocalDateTime.now().minusMonths(6);
             int baseUnits = 1000 + cid * 50;
             for (int m = 0; m < 6; m++) {
@@ -193,6 +211,27 @@ public class electricbillmanagement {
 
     // ---------- BILL GENERATION ----------
     private void generateBillsMenu() {
+        BillRunCheckpoint cp = loadBillRun();
+        if (cp != null) {
+            System.out.printf("Unfinished bill run %s for %s: %d consumers processed (last ID %d).%n", cp.runId, cp.month, cp.processed, cp.lastConsumerId);
+            String ans;
+            do {
+                System.out.print("Resume it? (y/n): ");
+                ans = scanner.nextLine().trim().toLowerCase();
+            } while (!ans.equals("y") && !ans.equals("n"));
+            if (ans.equals("y")) {
+                if (!cp.tariff.summary().equals(tariff.summary()))
+                    System.out.println("Note: resuming with the tariff the run started with: " + cp.tariff.summary());
+                if (replayBillRun(cp)) runBills(cp);
+                return;
+            }
+            // Discarding throws away every journalled bill, so it takes a deliberate second answer
+            System.out.print("Discard the run and its " + cp.processed + " processed consumers? Type DISCARD to confirm: ");
+            if (!scanner.nextLine().trim().equals("DISCARD")) { System.out.println("Run kept."); return; }
+            new File(BILL_RUN_FILE).delete();
+            new File(BILL_RUN_JOURNAL).delete();
+            System.out.println("Unfinished run discarded.");
+        }
         System.out.println("\nGenerate bills for month (year-month). Example: 2025-08");
         System.out.print("Enter year-month or blank = current month: ");
         String ym = scanner.nextLine().trim();
@@ -201,16 +240,56 @@ public class electricbillmanagement {
         else {
             try { target = YearMonth.parse(ym); } catch (Exception ex) { System.out.println("Invalid format."); return; }
         }
-        int generated = 0;
-        for (Consumer c : consumers.values()) {
-            if (generateBillForConsumerForMonth(c.getId(), target)) generated++;
+        // The run's inputs (consumers, readings) and the bills it starts from go to disk once up
+        // front; after that checkpoints only journal the bills the run itself produced.
+        new File(BILL_RUN_JOURNAL).delete();
+        if (!saveData()) { System.out.println("Bill run not started: data could not be saved."); return; }
+        BillRunCheckpoint run = new BillRunCheckpoint(target + "-" + System.currentTimeMillis(), target, tariff);
+        if (!checkpointBillRun(run, Collections.emptyList())) return;
+        runBills(run);
+    }
+
+    // Generates bills for consumers after cp.lastConsumerId in ID order. Every
+    // BILL_RUN_CHECKPOINT_EVERY consumers the bills made since the previous checkpoint are
+    // appended to the journal and then the checkpoint is written, so checkpoint cost follows the
+    // run's own work. bills.dat is rewritten once, when the run completes.
+    private void runBills(BillRunCheckpoint cp) {
+        List<Bill> pending = new ArrayList<>();
+        for (Integer cid : consumers().keySet()) {
+            if (cid <= cp.lastConsumerId) continue;
+            if (generateBillForConsumerForMonth(cid, cp.month, cp.tariff)) {
+                cp.generated++;
+                pending.add(bills().get(billIndex().get(cid).get(cp.month)));
+            }
+            cp.lastConsumerId = cid;
+            cp.processed++;
+            if (cp.processed % BILL_RUN_CHECKPOINT_EVERY == 0) {
+                if (!checkpointBillRun(cp, pending)) { System.out.println("Bill run stopped; fix the problem above and resume."); return; }
+                pending.clear();
+            }
+        }
+        try { writeObject(BILLS_FILE, bills()); writeHeader(); } catch (Exception ex) {
+            System.out.println("Save bills failed: " + ex.getMessage() + ". Bill run left resumable.");
+            return;
         }
-        System.out.println("Generated/updated bills for "+generated+" consumers for " + target);
+        new File(BILL_RUN_FILE).delete();
+        new File(BILL_RUN_JOURNAL).delete();
+        System.out.println("Generated/updated bills for "+cp.generated+" consumers for " + cp.month);
+    }
+
+    // While a run is unfinished its inputs and bill IDs must stay as they were, otherwise a
+    // resume would not produce what the uninterrupted run would have.
+    private static boolean billRunPending() { return new File(BILL_RUN_FILE).exists(); }
+
+    private static boolean lockedByBillRun() {
+        if (!billRunPending()) return false;
+        System.out.println("An unfinished bill run exists. Resume or discard it via 'Generate Bills' first.");
+        return true;
     }
 
     // generate bill, returns true if bill created/updated
-    private boolean generateBillForConsumerForMonth(int consumerId, YearMonth month) {
-        List<MeterReading> list = readings.getOrDefault(consumerId, Collections.emptyList());
+    private boolean generateBillForConsumerForMonth(int consumerId, YearMonth month, Tariff tariff) {
+        List<MeterReading> list = readings().getOrDefault(consumerId, Collections.emptyList());
         if (list.size() < 2) {
             // if fewer readings, cannot compute consumption reliably; skip
             return false;
@@ -246,9 +325,8 @@ public class electricbillmanagement {
         double total = subtotal + tax;
 
         // check if bill already exists for this consumer & month
-        Bill existing = bills.values().stream()
-                .filter(b -> b.getConsumerId() == consumerId && b.getYearMonth().equals(month))
-                .findFirst().orElse(null);
+        Integer existingId = billIndex().getOrDefault(consumerId, Collections.emptyMap()).get(month);
+        Bill existing = existingId != null ? bills().get(existingId) : null;
 
         if (existing != null) {
             // update existing bill details (if unpaid)
@@ -259,9 +337,13 @@ public class electricbillmanagement {
             existing.setTax(tax);
             existing.setTotal(total);
             existing.setGeneratedAt(LocalDateTime.now());
+            aging().track(existing);
         } else {
+            Map<Integer, Bill> store = bills(); // load first so billCounter is reconciled
             Bill b = new Bill(billCounter++, consumerId, month, consumed, energyCharge, fixed, tariff.getTaxRate(), tax, total, LocalDateTime.now());
-            bills.put(b.getId(), b);
+            store.put(b.getId(), b);
+            indexBill(billIndex, b);
+            aging().track(b);
         }
         return true;
     }
@@ -289,11 +371,11 @@ public class electricbillmanagement {
     }
 
     private void listBills() {
-        if (bills.isEmpty()) { System.out.println("No bills."); return; }
+        if (bills().isEmpty()) { System.out.println("No bills."); return; }
         System.out.printf("\n%-4s %-8s %-20s %-8s %-8s %-8s %-6s%n", "ID", "Period", "Consumer", "Units", "Total", "Paid", "Date");
-        List<Bill> list = bills.values().stream().sorted(Comparator.comparing(Bill::getYearMonth).reversed()).collect(Collectors.toList());
+        List<Bill> list = bills().values().stream().sorted(Comparator.comparing(Bill::getYearMonth).reversed()).collect(Collectors.toList());
         for (Bill b : list) {
-            Consumer c = consumers.get(b.getConsumerId());
+            Consumer c = consumers().get(b.getConsumerId());
             System.out.printf("%-4d %-8s %-20s %-8d %-8.2f %-8s %-6s%n",
                     b.getId(), b.getYearMonth(), c != null ? c.getName() : "[unknown]", b.getUnits(),
                     b.getTotal(), b.isPaid() ? "YES" : "NO", b.getGeneratedAt().toLocalDate().toString());
@@ -302,9 +384,9 @@ public class electricbillmanagement {
 
     private void viewBill() {
         int id = promptInt("Bill ID: ");
-        Bill b = bills.get(id);
+        Bill b = bills().get(id);
         if (b == null) { System.out.println("Not found."); return; }
-        Consumer c = consumers.get(b.getConsumerId());
+        Consumer c = consumers().get(b.getConsumerId());
         System.out.println("\n----- BILL -----");
         System.out.println("Bill ID: " + b.getId());
         System.out.println("Period: " + b.getYearMonth());
@@ -319,7 +401,7 @@ public class electricbillmanagement {
 
     private void payBill() {
         int id = promptInt("Bill ID to pay: ");
-        Bill b = bills.get(id);
+        Bill b = bills().get(id);
         if (b == null) { System.out.println("Not found."); return; }
         if (b.isPaid()) { System.out.println("Already paid on " + b.getPaidAt().format(DT)); return; }
         System.out.printf("Amount due: %.2f. Confirm payment? (y/n): ", b.getTotal());
@@ -327,6 +409,7 @@ public class electricbillmanagement {
         if (ans.equals("y") || ans.equals("yes")) {
             b.setPaid(true);
             b.setPaidAt(LocalDateTime.now());
+            aging().untrack(b.getId());
             System.out.println("Payment recorded.");
         } else System.out.println("Cancelled.");
     }
@@ -340,7 +423,7 @@ public class electricbillmanagement {
             try { target = YearMonth.parse(ym); } catch (Exception ex) { System.out.println("Invalid."); return; }
         }
         int updated = 0;
-        for (Integer cid : consumers.keySet()) if (generateBillForConsumerForMonth(cid, target)) updated++;
+        for (Integer cid : consumers().keySet()) if (generateBillForConsumerForMonth(cid, target, tariff)) updated++;
         System.out.println("Regenerated " + updated + " bills.");
     }
 
@@ -351,6 +434,8 @@ public class electricbillmanagement {
             System.out.println("1. Outstanding balances");
             System.out.println("2. Bills by date range");
             System.out.println("3. Consumption summary (by consumer)");
+            System.out.println("4. Aging / arrears summary");
+            System.out.println("5. Export collections candidates (CSV)");
             System.out.println("0. Back");
             System.out.print("Choose: ");
             String c = scanner.nextLine().trim();
@@ -358,6 +443,8 @@ public class electricbillmanagement {
                 case "1": reportOutstanding(); break;
                 case "2": reportBillsByRange(); break;
                 case "3": reportConsumptionSummary(); break;
+                case "4": reportAging(); break;
+                case "5": exportCollectionCandidates(); break;
                 case "0": return;
                 default: System.out.println("Invalid."); break;
             }
@@ -366,15 +453,59 @@ public class electricbillmanagement {
 
     private void reportOutstanding() {
         System.out.println("\nOutstanding (unpaid) bills:");
-        List<Bill> unpaid = bills.values().stream().filter(b -> !b.isPaid()).sorted(Comparator.comparing(Bill::getYearMonth)).collect(Collectors.toList());
+        List<Bill> unpaid = bills().values().stream().filter(b -> !b.isPaid()).sorted(Comparator.comparing(Bill::getYearMonth)).collect(Collectors.toList());
         if (unpaid.isEmpty()) { System.out.println("No outstanding bills."); return; }
         System.out.printf("%-4s %-8s %-20s %-8s %-8s%n", "ID", "Period", "Consumer", "Units", "Total");
         for (Bill b : unpaid) {
-            Consumer c = consumers.get(b.getConsumerId());
+            Consumer c = consumers().get(b.getConsumerId());
             System.out.printf("%-4d %-8s %-20s %-8d %-8.2f%n", b.getId(), b.getYearMonth(), c != null ? c.getName() : "[unknown]", b.getUnits(), b.getTotal());
         }
     }
 
+    private void reportAging() {
+        AgingEngine a = aging();
+        System.out.println("\nAging of unpaid bills (days since issued) as of " + a.getAsOf() + ":");
+        System.out.printf("%-8s %-6s %-10s%n", "Bucket", "Bills", "Amount");
+        for (int i = 0; i < AgingEngine.BUCKETS.length; i++)
+            System.out.printf("%-8s %-6d %-10.2f%n", AgingEngine.BUCKETS[i], a.getBucketCount(i), a.getBucketTotal(i));
+        List<Map.Entry<Integer, AgingEngine.Arrears>> ranked = a.ranked(0);
+        if (ranked.isEmpty()) { System.out.println("No arrears."); return; }
+        System.out.printf("%n%-4s %-20s %-9s %-9s %-9s %-9s %-10s%n", "ID", "Consumer", "0-30", "31-60", "61-90", "90+", "Arrears");
+        for (Map.Entry<Integer, AgingEngine.Arrears> e : ranked) {
+            Consumer c = consumers().get(e.getKey());
+            AgingEngine.Arrears ar = e.getValue();
+            System.out.printf("%-4d %-20s %-9.2f %-9.2f %-9.2f %-9.2f %-10.2f%n", e.getKey(), c != null ? c.getName() : "[unknown]",
+                    ar.getAmount(0), ar.getAmount(1), ar.getAmount(2), ar.getAmount(3), ar.total());
+        }
+    }
+
+    // Late-fee candidates: anything unpaid for more than 30 days. Disconnection candidates: anything over 90 days.
+    private void exportCollectionCandidates() {
+        AgingEngine a = aging();
+        String date = a.getAsOf().toString();
+        try {
+            int lateFees = writeCandidates("late_fee_candidates_" + date + ".csv", a.ranked(1), 1);
+            int disconnections = writeCandidates("disconnection_candidates_" + date + ".csv", a.ranked(3), 3);
+            System.out.println("Exported " + lateFees + " late-fee and " + disconnections + " disconnection candidates for " + date + ".");
+        } catch (IOException ex) { System.out.println("Export failed: " + ex.getMessage()); }
+    }
+
+    private int writeCandidates(String filename, List<Map.Entry<Integer, AgingEngine.Arrears>> ranked, int minBucket) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(filename))) {
+            out.println("rank,consumer_id,name,phone,meter,days_0_30,days_31_60,days_61_90,days_90_plus,overdue,total_arrears");
+            int rank = 0;
+            for (Map.Entry<Integer, AgingEngine.Arrears> e : ranked) {
+                Consumer c = consumers().get(e.getKey());
+                AgingEngine.Arrears ar = e.getValue();
+                out.printf(Locale.ROOT, "%d,%d,%s,%s,%s,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f%n", ++rank, e.getKey(),
+                        csv(c != null ? c.getName() : ""), csv(c != null ? c.getPhone() : ""), csv(c != null ? c.getMeterNumber() : ""),
+                        ar.getAmount(0), ar.getAmount(1), ar.getAmount(2), ar.getAmount(3), ar.overdue(minBucket), ar.total());
+            }
+            if (out.checkError()) throw new IOException("could not write " + filename); // PrintWriter swallows write errors
+            return rank;
+        }
+    }
+
     private void reportBillsByRange() {
         System.out.print("Start date (yyyy-MM-dd): ");
         String s1 = scanner.nextLine().trim();
@@ -383,14 +514,14 @@ public class electricbillmanagement {
         LocalDate start, end;
         try { start = LocalDate.parse(s1); end = LocalDate.parse(s2); } catch (Exception ex) { System.out.println("Invalid date format."); return; }
         System.out.println("\nBills generated between " + start + " and " + end + ":");
-        List<Bill> list = bills.values().stream()
+        List<Bill> list = bills().values().stream()
                 .filter(b -> {
                     LocalDate d = b.getGeneratedAt().toLocalDate();
                     return (!d.isBefore(start)) && (!d.isAfter(end));
                 }).sorted(Comparator.comparing(Bill::getGeneratedAt)).collect(Collectors.toList());
         if (list.isEmpty()) { System.out.println("No bills."); return; }
         for (Bill b : list) {
-            Consumer c = consumers.get(b.getConsumerId());
+            Consumer c = consumers().get(b.getConsumerId());
             System.out.printf("Bill %d | %s | %s | Units: %d | Total: %.2f | Paid: %s%n",
                     b.getId(), b.getGeneratedAt().format(DT), c != null ? c.getName() : "[unknown]", b.getUnits(), b.getTotal(), b.isPaid()? "YES": "NO");
         }
@@ -401,14 +532,14 @@ public class electricbillmanagement {
         String s = scanner.nextLine().trim();
         if (s.isEmpty()) {
             System.out.println("\nConsumption summary for all consumers (last 6 readings):");
-            for (Integer cid : consumers.keySet()) {
+            for (Integer cid : consumers().keySet()) {
                 int cons = totalConsumptionForConsumer(cid);
-                System.out.printf("ID %d | %s | Total units (recent): %d%n", cid, consumers.get(cid).getName(), cons);
+                System.out.printf("ID %d | %s | Total units (recent): %d%n", cid, consumers().get(cid).getName(), cons);
             }
         } else {
             try {
                 int cid = Integer.parseInt(s);
-                List<MeterReading> list = readings.getOrDefault(cid, Collections.emptyList());
+                List<MeterReading> list = readings().getOrDefault(cid, Collections.emptyList());
                 if (list.size() < 2) { System.out.println("Not enough readings."); return; }
                 System.out.println("\nReadings:");
                 list.forEach(r -> System.out.printf("%s => %d%n", r.getWhen().format(DT), r.getUnits()));
@@ -446,7 +577,9 @@ public class electricbillmanagement {
         String s = scanner.nextLine().trim();
         if (s.isEmpty()) return;
         try {
-            tariff = Tariff.parseFromString(s, tariff.getFixedCharge(), tariff.getTaxRate());
+            Tariff next = Tariff.parseFromString(s, tariff.getFixedCharge(), tariff.getTaxRate());
+            next.version = tariff.getVersion() + 1;
+            tariff = next;
             System.out.println("Updated slabs.");
         } catch (Exception ex) {
             System.out.println("Parse error: " + ex.getMessage());
@@ -466,32 +599,225 @@ public class electricbillmanagement {
     }
 
     // ---------- PERSISTENCE ----------
-    private void saveData() {
-        try { writeObject(CONSUMERS_FILE, consumers); } catch (Exception ex) { System.out.println("Save consumers failed: " + ex.getMessage()); }
-        try { writeObject(READINGS_FILE, readings); } catch (Exception ex) { System.out.println("Save readings failed: " + ex.getMessage()); }
-        try { writeObject(BILLS_FILE, bills); } catch (Exception ex) { System.out.println("Save bills failed: " + ex.getMessage()); }
+    // Only stores that were loaded this session are written; store.meta goes last so a
+    // header never advertises counters for data that did not reach disk.
+    // Returns false if anything failed; the header is then left as it was.
+    private boolean saveData() {
+        boolean ok = true;
+        if (consumers != null) try { writeObject(CONSUMERS_FILE, consumers); } catch (Exception ex) { ok = false; System.out.println("Save consumers failed: " + ex.getMessage()); }
+        if (readings != null) try { writeObject(READINGS_FILE, readings); } catch (Exception ex) { ok = false; System.out.println("Save readings failed: " + ex.getMessage()); }
+        Map<Integer, Bill> loadedBills;
+        synchronized (billsLock) { loadedBills = bills; }
+        if (loadedBills != null) try { writeObject(BILLS_FILE, loadedBills); } catch (Exception ex) { ok = false; System.out.println("Save bills failed: " + ex.getMessage()); }
+        if (!ok) return false;
+        try { writeHeader(); } catch (Exception ex) { System.out.println("Save store header failed: " + ex.getMessage()); return false; }
+        return true;
+    }
+
+    private void writeHeader() throws IOException {
+        int consumerCount = consumers != null ? consumers.size() : header != null ? header.consumerCount : 0;
+        int billCount;
+        synchronized (billsLock) { billCount = bills != null ? bills.size() : header != null ? header.billCount : 0; }
+        header = new StoreHeader(consumerCounter, billCounter, consumerCount, billCount, LocalDateTime.now());
+        writeObject(META_FILE, header);
     }
 
+    // Journal first, then the checkpoint: the checkpoint records how much of the journal is
+    // durable, so a batch appended just before a crash is dropped on resume. The store files and
+    // store.meta are not touched here.
+    private boolean checkpointBillRun(BillRunCheckpoint cp, List<Bill> batch) {
+        try {
+            if (!batch.isEmpty()) cp.journalLength = appendBillRunJournal(batch);
+            cp.billCounter = billCounter;
+            writeObject(BILL_RUN_FILE, cp);
+            return true;
+        } catch (Exception ex) {
+            System.out.println("Bill run checkpoint failed: " + ex.getMessage());
+            return false;
+        }
+    }
+
+    // Journal records are [length][serialized List<Bill>], appended and fsynced per checkpoint
+    private long appendBillRunJournal(List<Bill> batch) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(buf)) { oos.writeObject(new ArrayList<>(batch)); }
+        try (FileOutputStream fos = new FileOutputStream(BILL_RUN_JOURNAL, true); DataOutputStream out = new DataOutputStream(fos)) {
+            out.writeInt(buf.size());
+            buf.writeTo(out);
+            out.flush();
+            fos.getFD().sync();
+            return fos.getChannel().size();
+        }
+    }
+
+    // Merges the journalled bills up to the last checkpoint back into the store and trims
+    // anything written after it, so the resumed run continues from exactly that state.
     @SuppressWarnings("unchecked")
-    private void loadData() {
+    private boolean replayBillRun(BillRunCheckpoint cp) {
+        File f = new File(BILL_RUN_JOURNAL);
+        try {
+            if (cp.journalLength == 0) { f.delete(); }
+            else {
+                if (f.length() < cp.journalLength) throw new IOException("journal is shorter than the checkpoint");
+                Map<Integer, Bill> store = bills();
+                try (RandomAccessFile raf = new RandomAccessFile(f, "rw")) {
+                    raf.setLength(cp.journalLength);
+                    while (raf.getFilePointer() < cp.journalLength) {
+                        byte[] record = new byte[raf.readInt()];
+                        raf.readFully(record);
+                        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(record))) {
+                            for (Bill b : (List<Bill>) ois.readObject()) {
+                                store.put(b.getId(), b);
+                                indexBill(billIndex, b);
+                                aging().track(b);
+                            }
+                        }
+                    }
+                }
+            }
+            billCounter = Math.max(billCounter, cp.billCounter);
+            return true;
+        } catch (Exception ex) {
+            System.out.println("Bill run journal unreadable (" + ex.getMessage() + "); discard the run to continue.");
+            return false;
+        }
+    }
+
+    private BillRunCheckpoint loadBillRun() {
         try {
-            Object o = readObject(CONSUMERS_FILE);
-            if (o != null) { consumers = (Map<Integer, Consumer>) o; consumerCounter = consumers.keySet().stream().mapToInt(i->i).max().orElse(0) + 1; }
+            Object o = readObject(BILL_RUN_FILE);
+            if (o instanceof BillRunCheckpoint) return (BillRunCheckpoint) o;
         } catch (Exception ex) { /* ignore */ }
+        return null;
+    }
+
+    // Reads the ID counters from store.meta. Without a (current) header the counters are
+    // recovered from each store as it is loaded.
+    private void loadHeader() {
         try {
-            Object o = readObject(READINGS_FILE);
-            if (o != null) readings = (Map<Integer, List<MeterReading>>) o;
+            Object o = readObject(META_FILE);
+            if (o instanceof StoreHeader && ((StoreHeader) o).format == STORE_FORMAT) {
+                header = (StoreHeader) o;
+                consumerCounter = header.consumerCounter;
+                billCounter = header.billCounter;
+            }
         } catch (Exception ex) { /* ignore */ }
+    }
+
+    private Map<Integer, Consumer> consumers() {
+        if (consumers == null) {
+            consumers = readStore(CONSUMERS_FILE);
+            consumerCounter = Math.max(consumerCounter, maxKey(consumers) + 1);
+        }
+        return consumers;
+    }
+
+    private Map<Integer, List<MeterReading>> readings() {
+        if (readings == null) readings = readStore(READINGS_FILE);
+        return readings;
+    }
+
+    // bills.dat may be loaded by the background loader or by the first caller; whoever gets
+    // here first also builds the consumer/month index.
+    private Map<Integer, Bill> bills() {
+        synchronized (billsLock) {
+            if (bills == null) {
+                Map<Integer, Bill> loaded = readStore(BILLS_FILE);
+                Map<Integer, Map<YearMonth, Integer>> index = new HashMap<>();
+                for (Bill b : loaded.values()) indexBill(index, b);
+                billCounter = Math.max(billCounter, maxKey(loaded) + 1);
+                AgingEngine engine = new AgingEngine(LocalDate.now());
+                for (Bill b : loaded.values()) engine.track(b);
+                billIndex = index;
+                aging = engine;
+                bills = loaded;
+            }
+            return bills;
+        }
+    }
+
+    private Map<Integer, Map<YearMonth, Integer>> billIndex() {
+        bills();
+        return billIndex;
+    }
+
+    // Rolls the aging buckets forward to today before handing the engine out
+    private AgingEngine aging() {
+        bills();
+        aging.advanceTo(LocalDate.now());
+        return aging;
+    }
+
+    private static void indexBill(Map<Integer, Map<YearMonth, Integer>> index, Bill b) {
+        index.computeIfAbsent(b.getConsumerId(), k -> new HashMap<>()).put(b.getYearMonth(), b.getId());
+    }
+
+    private void startBillIndexLoader() {
+        Thread t = new Thread(this::bills, "bill-index-loader");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    // Exercises every model class and the serialization path without entering the menu, for
+    // -XX:ArchiveClassesAtExit. Works only on sample objects: the .dat files are never read.
+    private void cdsTrainingRun() {
+        LocalDateTime now = LocalDateTime.now();
+        Consumer c = new Consumer(1, "Sample", "-", "-", "MTR-0", now.toLocalDate());
+        List<MeterReading> sample = new ArrayList<>();
+        sample.add(new MeterReading(c.getId(), now.minusMonths(1), 100));
+        sample.add(new MeterReading(c.getId(), now, 250));
+        sample.sort(Comparator.comparing(MeterReading::getWhen));
+        int consumed = sample.get(1).getUnits() - sample.get(0).getUnits();
+        double energy = tariff.calculate(consumed);
+        double tax = (energy + tariff.getFixedCharge()) * tariff.getTaxRate();
+        Bill b = new Bill(1, c.getId(), YearMonth.from(now), consumed, energy, tariff.getFixedCharge(), tariff.getTaxRate(), tax,
+                energy + tariff.getFixedCharge() + tax, now.minusDays(100));
+        AgingEngine engine = new AgingEngine(now.toLocalDate());
+        engine.track(b);
+        engine.advanceTo(now.toLocalDate().plusDays(1));
+        engine.ranked(0);
+        BillRunCheckpoint cp = new BillRunCheckpoint("cds", YearMonth.from(now), tariff);
+        StoreHeader h = new StoreHeader(2, 2, 1, 1, now);
         try {
-            Object o = readObject(BILLS_FILE);
-            if (o != null) { bills = (Map<Integer, Bill>) o; billCounter = bills.keySet().stream().mapToInt(i->i).max().orElse(0) + 1; }
+            ByteArrayOutputStream buf = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(buf)) {
+                oos.writeObject(new TreeMap<>(Collections.singletonMap(c.getId(), c)));
+                oos.writeObject(new TreeMap<>(Collections.singletonMap(c.getId(), sample)));
+                oos.writeObject(new TreeMap<>(Collections.singletonMap(b.getId(), b)));
+                oos.writeObject(cp);
+                oos.writeObject(h);
+            }
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buf.toByteArray()))) {
+                for (int i = 0; i < 5; i++) ois.readObject();
+            }
+        } catch (Exception ex) { System.out.println("CDS training serialization failed: " + ex.getMessage()); }
+        System.out.println("CDS training run complete.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Map<Integer, V> readStore(String filename) {
+        try {
+            Object o = readObject(filename);
+            if (o != null) return (Map<Integer, V>) o;
         } catch (Exception ex) { /* ignore */ }
+        return new TreeMap<>();
     }
 
+    private static int maxKey(Map<Integer, ?> m) {
+        if (m.isEmpty()) return 0;
+        if (m instanceof NavigableMap) return ((NavigableMap<Integer, ?>) m).lastKey();
+        return Collections.max(m.keySet());
+    }
+
+    // Writes to a temp file and renames it over the target, so a crash mid-write never leaves a torn file
     private void writeObject(String filename, Object obj) throws IOException {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filename))) {
+        File tmp = new File(filename + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp); ObjectOutputStream oos = new ObjectOutputStream(fos)) {
             oos.writeObject(obj);
+            oos.flush();
+            fos.getFD().sync();
         }
+        Files.move(tmp.toPath(), new File(filename).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
     }
 
     private Object readObject(String filename) throws IOException, ClassNotFoundException {
@@ -504,6 +830,11 @@ public class electricbillmanagement {
 
     // ---------- UTIL ----------
     private static String optional(String s) { return s == null || s.isEmpty() ? "-" : s; }
+    private static String csv(String s) {
+        if (s == null) return "";
+        if (s.contains(",") || s.contains("\"") || s.contains("\n")) return "\"" + s.replace("\"", "\"\"") + "\"";
+        return s;
+    }
     private static int promptInt(String prompt) {
         while (true) {
             System.out.print(prompt);
@@ -512,26 +843,27 @@ public class electricbillmanagement {
         }
     }
     private int totalConsumptionForConsumer(int cid) {
-        List<MeterReading> list = readings.getOrDefault(cid, Collections.emptyList());
+        List<MeterReading> list = readings().getOrDefault(cid, Collections.emptyList());
         if (list.size() < 2) return 0;
         return list.get(list.size()-1).getUnits() - list.get(0).getUnits();
     }
 
     private void bootstrapSampleIfEmpty() {
-        if (consumers.isEmpty()) {
+        if (header != null && header.consumerCount > 0) return; // known non-empty without loading the store
+        if (consumers().isEmpty()) {
             Consumer a = new Consumer(consumerCounter++, "Aman Sharma", "Mumbai", "9876500001", "MTR-1001", LocalDate.now().minusYears(1));
             Consumer b = new Consumer(consumerCounter++, "Seema Roy", "Delhi", "9876500002", "MTR-1002", LocalDate.now().minusYears(1));
-            consumers.put(a.getId(), a); consumers.put(b.getId(), b);
-            readings.put(a.getId(), new ArrayList<>());
-            readings.put(b.getId(), new ArrayList<>());
+            consumers().put(a.getId(), a); consumers().put(b.getId(), b);
+            readings().put(a.getId(), new ArrayList<>());
+            readings().put(b.getId(), new ArrayList<>());
             // add sample readings 6 months
             LocalDateTime base = LocalDateTime.now().minusMonths(6);
             int u1 = 1000, u2 = 800;
             for (int i=0;i<6;i++){
                 base = base.plusMonths(1);
                 u1 += 120; u2 += 90;
-                readings.get(a.getId()).add(new MeterReading(a.getId(), base, u1));
-                readings.get(b.getId()).add(new MeterReading(b.getId(), base, u2));
+                readings().get(a.getId()).add(new MeterReading(a.getId(), base, u1));
+                readings().get(b.getId()).add(new MeterReading(b.getId(), base, u2));
             }
             System.out.println("Sample consumers & readings created.");
         }
@@ -588,7 +920,8 @@ public class electricbillmanagement {
         private double taxRate;
         private double tax;
         private double total;
-        private LocalDateTime generatedAt;
+        private LocalDateTime generatedAt; // refreshed when an unpaid bill is regenerated
+        private LocalDateTime issuedAt; // first generation; null for bills saved before it existed
 
         // payment
         private boolean paid;
@@ -596,7 +929,7 @@ public class electricbillmanagement {
 
         public Bill(int id, int consumerId, YearMonth yearMonth, int units, double energyCharge, double fixedCharge, double taxRate, double tax, double total, LocalDateTime generatedAt) {
             this.id = id; this.consumerId = consumerId; this.yearMonth = yearMonth; this.units = units;
-            this.energyCharge = energyCharge; this.fixedCharge = fixedCharge; this.taxRate = taxRate; this.tax = tax; this.total = total; this.generatedAt = generatedAt;
+            this.energyCharge = energyCharge; this.fixedCharge = fixedCharge; this.taxRate = taxRate; this.tax = tax; this.total = total; this.generatedAt = generatedAt; this.issuedAt = generatedAt;
             this.paid = false; this.paidAt = null;
         }
         public int getId(){ return id; }
@@ -609,6 +942,7 @@ public class electricbillmanagement {
         public double getTax(){ return tax; }
         public double getTotal(){ return total; }
         public LocalDateTime getGeneratedAt(){ return generatedAt; }
+        public LocalDateTime getIssuedAt(){ return issuedAt != null ? issuedAt : generatedAt; }
         public boolean isPaid(){ return paid; }
         public LocalDateTime getPaidAt(){ return paidAt; }
 
@@ -623,12 +957,163 @@ public class electricbillmanagement {
         public void setPaidAt(LocalDateTime t){ this.paidAt = t; this.paid = true; }
     }
 
+    // Small header saved next to the .dat files so startup does not need to scan them
+    private static class StoreHeader implements Serializable {
+        private static final long serialVersionUID = 1L;
+        int format;
+        int consumerCounter;
+        int billCounter;
+        int consumerCount;
+        int billCount;
+        LocalDateTime savedAt;
+
+        StoreHeader(int consumerCounter, int billCounter, int consumerCount, int billCount, LocalDateTime savedAt) {
+            this.format = STORE_FORMAT; this.consumerCounter = consumerCounter; this.billCounter = billCounter;
+            this.consumerCount = consumerCount; this.billCount = billCount; this.savedAt = savedAt;
+        }
+    }
+
+    // Aging of unpaid bills by days since issuedAt (0-30 / 31-60 / 61-90 / 90+), with
+    // per-consumer arrears and bucket totals kept current as bills are tracked and untracked.
+    // Each bill is filed under the date it next changes bucket, so advanceTo only touches
+    // bills that actually move.
+    private static class AgingEngine {
+        static final String[] BUCKETS = {"0-30", "31-60", "61-90", "90+"};
+        private static final int[] BUCKET_START = {0, 31, 61, 91}; // first age (days) of each bucket
+
+        private final Map<Integer, Tracked> tracked = new HashMap<>(); // billId -> aging state
+        private final Map<Integer, Arrears> byConsumer = new HashMap<>();
+        private final TreeMap<LocalDate, Set<Integer>> transitions = new TreeMap<>(); // bucket change date -> billIds
+        private final double[] bucketTotals = new double[BUCKETS.length];
+        private final int[] bucketCounts = new int[BUCKETS.length];
+        private LocalDate asOf;
+
+        AgingEngine(LocalDate asOf) { this.asOf = asOf; }
+
+        public LocalDate getAsOf(){ return asOf; }
+        public double getBucketTotal(int bucket){ return bucketTotals[bucket]; }
+        public int getBucketCount(int bucket){ return bucketCounts[bucket]; }
+
+        // (Re)registers a bill; paid bills are simply dropped
+        public void track(Bill b) {
+            untrack(b.getId());
+            if (b.isPaid()) return;
+            Tracked t = new Tracked(b.getConsumerId(), b.getTotal(), b.getIssuedAt().toLocalDate());
+            t.bucket = bucketFor(t.since);
+            tracked.put(b.getId(), t);
+            apply(t, 1);
+            schedule(b.getId(), t);
+        }
+
+        public void untrack(int billId) {
+            Tracked t = tracked.remove(billId);
+            if (t == null) return;
+            apply(t, -1);
+            if (t.nextMove != null) {
+                Set<Integer> ids = transitions.get(t.nextMove);
+                ids.remove(billId);
+                if (ids.isEmpty()) transitions.remove(t.nextMove);
+            }
+        }
+
+        // Daily tick: returns the number of bills that changed bucket
+        public int advanceTo(LocalDate day) {
+            if (!day.isAfter(asOf)) return 0;
+            asOf = day;
+            int moved = 0;
+            while (!transitions.isEmpty() && !transitions.firstKey().isAfter(day)) {
+                for (int id : transitions.pollFirstEntry().getValue()) {
+                    Tracked t = tracked.get(id);
+                    apply(t, -1);
+                    t.bucket = bucketFor(t.since);
+                    apply(t, 1);
+                    schedule(id, t);
+                    moved++;
+                }
+            }
+            return moved;
+        }
+
+        // Consumers with arrears in minBucket or older, largest such amount first
+        public List<Map.Entry<Integer, Arrears>> ranked(int minBucket) {
+            return byConsumer.entrySet().stream()
+                    .filter(e -> e.getValue().openFrom(minBucket) > 0)
+                    .sorted(Comparator.comparingDouble((Map.Entry<Integer, Arrears> e) -> e.getValue().overdue(minBucket)).reversed()
+                            .thenComparing(Map.Entry::getKey))
+                    .collect(Collectors.toList());
+        }
+
+        private int bucketFor(LocalDate since) {
+            long age = asOf.toEpochDay() - since.toEpochDay();
+            for (int i = BUCKET_START.length - 1; i > 0; i--) if (age >= BUCKET_START[i]) return i;
+            return 0;
+        }
+
+        private void schedule(int billId, Tracked t) {
+            t.nextMove = t.bucket + 1 < BUCKET_START.length ? t.since.plusDays(BUCKET_START[t.bucket + 1]) : null;
+            if (t.nextMove != null) transitions.computeIfAbsent(t.nextMove, k -> new HashSet<>()).add(billId);
+        }
+
+        private void apply(Tracked t, int sign) {
+            bucketCounts[t.bucket] += sign;
+            bucketTotals[t.bucket] = bucketCounts[t.bucket] == 0 ? 0.0 : bucketTotals[t.bucket] + sign * t.amount;
+            Arrears a = byConsumer.computeIfAbsent(t.consumerId, k -> new Arrears());
+            a.add(t.bucket, sign * t.amount, sign);
+            if (a.openFrom(0) == 0) byConsumer.remove(t.consumerId);
+        }
+
+        private static class Tracked {
+            final int consumerId;
+            final double amount;
+            final LocalDate since;
+            int bucket;
+            LocalDate nextMove; // null once in the last bucket
+
+            Tracked(int consumerId, double amount, LocalDate since) { this.consumerId = consumerId; this.amount = amount; this.since = since; }
+        }
+
+        static class Arrears {
+            private final double[] amount = new double[BUCKETS.length];
+            private final int[] count = new int[BUCKETS.length];
+
+            void add(int bucket, double delta, int n) {
+                count[bucket] += n;
+                amount[bucket] = count[bucket] == 0 ? 0.0 : amount[bucket] + delta;
+            }
+            public double getAmount(int bucket){ return amount[bucket]; }
+            public int openFrom(int minBucket){ int n = 0; for (int i = minBucket; i < count.length; i++) n += count[i]; return n; }
+            public double overdue(int minBucket){ double v = 0; for (int i = minBucket; i < amount.length; i++) v += amount[i]; return v; }
+            public double total(){ return overdue(0); }
+        }
+    }
+
+    // Progress of a month-end bill run. The tariff is stored with it so a resumed run prices
+    // the remaining consumers exactly as the interrupted one would have.
+    private static class BillRunCheckpoint implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String runId;
+        YearMonth month;
+        int lastConsumerId; // consumers are processed in ascending ID order
+        int tariffVersion; // informational: Tariff is not persisted, so this only counts edits made in the session that started the run
+        Tariff tariff;
+        int processed;
+        int generated;
+        int billCounter; // next bill ID at the checkpoint
+        long journalLength; // bytes of billrun.journal covered by this checkpoint
+
+        BillRunCheckpoint(String runId, YearMonth month, Tariff tariff) {
+            this.runId = runId; this.month = month; this.lastConsumerId = 0;
+            this.tariffVersion = tariff.getVersion(); this.tariff = tariff;
+        }
+    }
+
     // Tariff: list of slabs (units, price per unit). slabUnits==Integer.MAX_VALUE means up-to-infinite
     private static class Tariff implements Serializable {
         private static final long serialVersionUID = 1L;
         private List<Slab> slabs = new ArrayList<>();
         private double fixedCharge = 50.0;
         private double taxRate = 0.05; // 5%
+        private int version = 1; // bumped on every edit; restarts at 1 each session since the tariff is not saved
 
         public static Tariff defaultTariff() {
             Tariff t = new Tariff();
@@ -655,8 +1140,9 @@ public class electricbillmanagement {
             return charge;
         }
 
-        public void setFixedCharge(double f){ this.fixedCharge = f; }
-        public void setTaxRate(double t){ this.taxRate = t; }
+        public void setFixedCharge(double f){ this.fixedCharge = f; version++; }
+        public void setTaxRate(double t){ this.taxRate = t; version++; }
+        public int getVersion(){ return version; }
         public double getFixedCharge(){ return fixedCharge; }
         public double getTaxRate(){ return taxRate; }
 
@@ -702,4 +1188,4 @@ public class electricbillmanagement {
             Slab(int units, double rate){ this.units = units; this.rate = rate; }
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file